@@ -1,21 +1,51 @@
 package org.CLI;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.CRC32C;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 public class CommandLineInterpreter {
+    // Directories with more entries than this have their attributes fetched on the worker pool
+    private static final int PARALLEL_STAT_THRESHOLD = 256;
+    static final int WORKER_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+    // Files at least this large are copied as parallel ranges, one per worker thread
+    static final long PARALLEL_COPY_THRESHOLD = 64L * 1024 * 1024;
+    private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+    // Richest attribute view the platform offers, so one readAttributes call covers size, mtime, type and permissions
+    private static final Class<? extends BasicFileAttributes> ATTRIBUTES_TYPE = selectAttributesType();
+    private static ExecutorService workerPool;
+
     private File currentDirectory;
-    private final Scanner scanner;
+    private Scanner scanner;
     private StringTokenizer stringTokenizer;
+    private final long parallelCopyThreshold;
+    private final int copyRanges;
 
     CommandLineInterpreter() {
+        this(PARALLEL_COPY_THRESHOLD, WORKER_THREADS);
+    }
+
+    // Lets tests reach the parallel range copy with small files, even on single-CPU machines
+    CommandLineInterpreter(long parallelCopyThreshold, int copyRanges) {
         this.currentDirectory = new File(System.getProperty("user.dir"));
-        this.scanner = new Scanner(System.in);
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
+        this.parallelCopyThreshold = parallelCopyThreshold;
+        this.copyRanges = copyRanges;
     }
 
     public void execute() {
+        // Terminal setup only matters for interactive sessions, so `-c` runs skip it
+        if (this.scanner == null) {
+            this.scanner = new Scanner(System.in);
+            System.out.print("\033[H\033[2J");
+            System.out.flush();
+        }
         while (true) {
             System.out.print(currentDirectory.getAbsolutePath() + ": ");
             String input = scanner.nextLine();
@@ -27,6 +57,9 @@ public class CommandLineInterpreter {
 
     public boolean processInput(String input) {
         this.stringTokenizer = new StringTokenizer(input, " ");
+        if (!stringTokenizer.hasMoreTokens()) {
+            return true; // Blank input
+        }
         String command = stringTokenizer.nextToken();
         List<String> commandArguments = new ArrayList<>();
         while(stringTokenizer.hasMoreElements()) {
@@ -89,6 +122,10 @@ public class CommandLineInterpreter {
                 this.mv(commandArguments);
                 break;
             }
+            case "cp": {
+                this.cp(commandArguments);
+                break;
+            }
             default: {
                 break;
             }
@@ -97,28 +134,33 @@ public class CommandLineInterpreter {
     }
 
     public String[] help() {
-        List<String> helpMessages = new ArrayList<>();
-
-        helpMessages.add("Available Commands:");
-        helpMessages.add("1. pwd         : Prints the current working directory.");
-        helpMessages.add("2. cd <dir>   : Changes the current directory to <dir>.");
-        helpMessages.add("3. ls         : Lists files in the current directory.");
-        helpMessages.add("4. ls -a      : Lists all files, including hidden files.");
-        helpMessages.add("5. ls -r      : Lists files in reverse order.");
-        helpMessages.add("6. mkdir <dir>: Creates a new directory named <dir>.");
-        helpMessages.add("7. rmdir <dir>: Removes an empty directory named <dir>.");
-        helpMessages.add("8. touch <file>: Creates a new file named <file>.");
-        helpMessages.add("9. mv <src> <dest>: Moves or renames a file or directory.");
-        helpMessages.add("10. rm <file> : Removes a file named <file>.");
-        helpMessages.add("11. cat <file>: Displays the contents of <file>.");
-        helpMessages.add("12. > <file>  : Redirects output to <file> (overwrites).");
-        helpMessages.add("13. >> <file> : Redirects output to <file> (appends).");
-        helpMessages.add("14. |         : Pipes the output of one command to another.");
-        helpMessages.add("15. exit      : Terminates the CLI.");
-        helpMessages.add("16. help      : Displays this help message.");
+        return HelpText.MESSAGES.clone();
+    }
 
-        // Convert List<String> to String[] and return
-        return helpMessages.toArray(new String[0]);
+    // Built on the first `help` instead of with the interpreter
+    private static final class HelpText {
+        private static final String[] MESSAGES = {
+                "Available Commands:",
+                "1. pwd         : Prints the current working directory.",
+                "2. cd <dir>   : Changes the current directory to <dir>.",
+                "3. ls         : Lists files in the current directory.",
+                "4. ls -a      : Lists all files, including hidden files.",
+                "5. ls -r      : Lists files in reverse order.",
+                "6. ls -l      : Lists files with permissions, size and modification time.",
+                "7. ls -S / -t : Sorts files by size / modification time.",
+                "8. mkdir <dir>: Creates a new directory named <dir>.",
+                "9. rmdir <dir>: Removes an empty directory named <dir>.",
+                "10. touch <file>: Creates a new file named <file>.",
+                "11. mv <src> <dest>: Moves or renames a file or directory.",
+                "12. cp <src>... <dest>: Copies files; --verify checksums the copies.",
+                "13. rm <file> : Removes a file named <file>.",
+                "14. cat <file>: Displays the contents of <file>.",
+                "15. > <file>  : Redirects output to <file> (overwrites).",
+                "16. >> <file> : Redirects output to <file> (appends).",
+                "17. |         : Pipes the output of one command to another.",
+                "18. exit      : Terminates the CLI.",
+                "19. help      : Displays this help message."
+        };
     }
 
     public String pwd() {
@@ -136,7 +178,8 @@ public class CommandLineInterpreter {
         if (targetDirectory.equals("..")) {
             newDir = new File(currentDirectory.getParent());
         }
-        if (!newDir.exists() || !newDir.isDirectory()) {
+        BasicFileAttributes attributes = readAttributes(newDir.toPath());
+        if (attributes == null || !attributes.isDirectory()) {
             System.out.println(newDir.getName());
             System.out.println("Directory Doesn't Exist");
             return false;
@@ -148,6 +191,8 @@ public class CommandLineInterpreter {
     public String[] executeLs(List<String> commandArguments) {
         boolean showAll = false;
         boolean reverse = false;
+        boolean longFormat = false;
+        SortKey sortKey = SortKey.NAME;
         String outputFileName = null;
         boolean append = false;
 
@@ -160,6 +205,15 @@ public class CommandLineInterpreter {
                 case "-r":
                     reverse = true;
                     break;
+                case "-l":
+                    longFormat = true;
+                    break;
+                case "-S":
+                    sortKey = SortKey.SIZE;
+                    break;
+                case "-t":
+                    sortKey = SortKey.TIME;
+                    break;
                 case ">":
                     append = false;
                     outputFileName = getNextArgument(option, commandArguments);
@@ -177,7 +231,7 @@ public class CommandLineInterpreter {
         }
 
         // Call ls function to get the list of files
-        String[] result = ls(showAll, reverse);
+        String[] result = ls(showAll, reverse, longFormat, sortKey);
 
         // Prepare output
         StringBuilder output = new StringBuilder();
@@ -197,26 +251,155 @@ public class CommandLineInterpreter {
     }
 
     // Helper function to handle `ls` listing based on flags
-    private String[] ls(boolean showAll, boolean reverse) {
-        File[] allFiles = this.currentDirectory.listFiles();
-        if (allFiles == null) {
+    private String[] ls(boolean showAll, boolean reverse, boolean longFormat, SortKey sortKey) {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.currentDirectory.toPath())) {
+            for (Path path : stream) {
+                paths.add(path);
+            }
+        } catch (IOException e) {
             return new String[0];
         }
 
-        List<String> filteredFiles = new ArrayList<>();
-        for (File file : allFiles) {
-            if (showAll || !file.isHidden()) {
-                filteredFiles.add(file.getName());
+        // Attributes are only fetched when something needs them; plain POSIX `ls` works from names alone
+        boolean needAttributes = longFormat || sortKey != SortKey.NAME
+                || (!showAll && ATTRIBUTES_TYPE == DosFileAttributes.class);
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : readEntries(paths, needAttributes)) {
+            if (showAll || !entry.isHidden()) {
+                entries.add(entry);
             }
         }
 
-        Collections.sort(filteredFiles);
+        entries.sort(sortKey.comparator);
 
         if (reverse) {
-            Collections.reverse(filteredFiles);
+            Collections.reverse(entries);
+        }
+
+        String[] result = new String[entries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = longFormat ? formatLong(entries.get(i)) : entries.get(i).name();
+        }
+        return result;
+    }
+
+    // Fetches the attributes of every path, spreading the stat calls over the pool for large directories
+    private List<Entry> readEntries(List<Path> paths, boolean needAttributes) {
+        List<Entry> entries = new ArrayList<>(paths.size());
+        if (!needAttributes || paths.size() <= PARALLEL_STAT_THRESHOLD) {
+            for (Path path : paths) {
+                BasicFileAttributes attributes = needAttributes ? readAttributes(path, LinkOption.NOFOLLOW_LINKS) : null;
+                entries.add(new Entry(path.getFileName().toString(), attributes));
+            }
+            return entries;
         }
 
-        return filteredFiles.toArray(new String[0]);
+        List<Future<BasicFileAttributes>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            futures.add(workerPool().submit(() -> readAttributes(path, LinkOption.NOFOLLOW_LINKS)));
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                attributes = null;
+            } catch (ExecutionException e) {
+                attributes = null;
+            }
+            entries.add(new Entry(paths.get(i).getFileName().toString(), attributes));
+        }
+        return entries;
+    }
+
+    // Formats one `ls -l` line: type and permissions, size, modification time and name
+    private String formatLong(Entry entry) {
+        BasicFileAttributes attributes = entry.attributes();
+        if (attributes == null) {
+            return "?????????? " + String.format("%10s %16s ", "?", "?") + entry.name();
+        }
+
+        char type = attributes.isDirectory() ? 'd' : attributes.isSymbolicLink() ? 'l' : '-';
+        String permissions;
+        if (attributes instanceof PosixFileAttributes posix) {
+            permissions = PosixFilePermissions.toString(posix.permissions());
+        } else if (attributes instanceof DosFileAttributes dos && dos.isReadOnly()) {
+            permissions = "r--r--r--";
+        } else {
+            permissions = "rw-rw-rw-";
+        }
+        return String.format("%c%s %10d %s %s", type, permissions, attributes.size(),
+                LongListingTime.FORMATTER.format(attributes.lastModifiedTime().toInstant()), entry.name());
+    }
+
+    // Keeps java.time out of startup until the first `ls -l`
+    private static final class LongListingTime {
+        private static final DateTimeFormatter FORMATTER =
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+    }
+
+    // Reads size, times, type and (where available) permissions of a path in a single stat call, or null if it is missing
+    private static BasicFileAttributes readAttributes(Path path, LinkOption... options) {
+        try {
+            return Files.readAttributes(path, ATTRIBUTES_TYPE, options);
+        } catch (IOException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static Class<? extends BasicFileAttributes> selectAttributesType() {
+        Set<String> views = FileSystems.getDefault().supportedFileAttributeViews();
+        if (views.contains("posix")) {
+            return PosixFileAttributes.class;
+        }
+        if (views.contains("dos")) {
+            return DosFileAttributes.class;
+        }
+        return BasicFileAttributes.class;
+    }
+
+    private static synchronized ExecutorService workerPool() {
+        if (workerPool == null) {
+            workerPool = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "cli-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workerPool;
+    }
+
+    // A directory entry together with its attributes, which are null when they were not needed or could not be read
+    private record Entry(String name, BasicFileAttributes attributes) {
+        boolean isHidden() {
+            if (attributes instanceof DosFileAttributes dos) {
+                return dos.isHidden();
+            }
+            return name.startsWith(".");
+        }
+
+        long size() {
+            return attributes == null ? 0 : attributes.size();
+        }
+
+        long lastModified() {
+            return attributes == null ? 0 : attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    // `ls` orderings: by name, largest first (-S) or newest first (-t), ties broken by name
+    private enum SortKey {
+        NAME(Comparator.comparing(Entry::name)),
+        SIZE(Comparator.comparingLong(Entry::size).reversed().thenComparing(Entry::name)),
+        TIME(Comparator.comparingLong(Entry::lastModified).reversed().thenComparing(Entry::name));
+
+        private final Comparator<Entry> comparator;
+
+        SortKey(Comparator<Entry> comparator) {
+            this.comparator = comparator;
+        }
     }
 
     // Get the next argument after `>` or `>>` for the output file name
@@ -242,14 +425,13 @@ public class CommandLineInterpreter {
         for (String argument: commandArguments) {
             File newDir = new File(this.currentDirectory, argument);
 
-            if (newDir.exists()) {
-                System.out.println("Directory '" + argument + "' already exists.");
-                continue;
-            }
-
-            if (newDir.mkdir()) {
+            // createDirectory reports an existing entry itself, so no separate exists() stat is needed
+            try {
+                Files.createDirectory(newDir.toPath());
                 System.out.println("Directory '" + argument + "' created successfully.");
-            } else {
+            } catch (FileAlreadyExistsException e) {
+                System.out.println("Directory '" + argument + "' already exists.");
+            } catch (IOException e) {
                 System.out.println("Error: Could not create directory '" + argument + "'. Please check the name and try again.");
             }
         }
@@ -271,15 +453,11 @@ public class CommandLineInterpreter {
             File newFile = new File(this.currentDirectory, argument);
 
             try {
-                if (newFile.exists()) {
-                    System.out.println("File '" + argument + "' already exists.");
-                    continue;
-                }
-
+                // createNewFile only returns false when the file already exists
                 if (newFile.createNewFile()) {
                     System.out.println("File '" + argument + "' created successfully.");
                 } else {
-                    System.out.println("Error: Could not create file '" + argument + "'.");
+                    System.out.println("File '" + argument + "' already exists.");
                 }
             } catch (IOException e) {
                 System.out.println("Error: " + e.getMessage());
@@ -298,11 +476,12 @@ public class CommandLineInterpreter {
         File sourceFile = new File(this.currentDirectory, commandArguments.getFirst());
         File destinationFile = new File(this.currentDirectory, commandArguments.getLast());
 
-        if (!sourceFile.exists()) {
+        if (readAttributes(sourceFile.toPath(), LinkOption.NOFOLLOW_LINKS) == null) {
             System.out.println("Error: Source file does not exist");
             return false;
         }
-        if (destinationFile.isDirectory()) {
+        BasicFileAttributes destinationAttributes = readAttributes(destinationFile.toPath());
+        if (destinationAttributes != null && destinationAttributes.isDirectory()) {
             destinationFile = new File(destinationFile, sourceFile.getName());
         }
         if (sourceFile.renameTo(destinationFile)) {
@@ -314,10 +493,199 @@ public class CommandLineInterpreter {
         }
     }
 
+    public boolean cp(List<String> commandArguments) {
+        boolean verify = false;
+        List<String> operands = new ArrayList<>();
+        for (String argument : commandArguments) {
+            if (argument.equals("--verify")) {
+                verify = true;
+            } else {
+                operands.add(argument);
+            }
+        }
+        if (operands.size() < 2) {
+            System.out.println("Usage: cp [--verify] <source> [additional_sources...] <destination>");
+            return false;
+        }
+
+        File destination = new File(this.currentDirectory, operands.getLast());
+        BasicFileAttributes destinationAttributes = readAttributes(destination.toPath());
+        boolean intoDirectory = destinationAttributes != null && destinationAttributes.isDirectory();
+        if (operands.size() > 2 && !intoDirectory) {
+            System.out.println("Error: Target '" + operands.getLast() + "' is not a directory");
+            return false;
+        }
+
+        boolean success = true;
+        for (String sourceName : operands.subList(0, operands.size() - 1)) {
+            File sourceFile = new File(this.currentDirectory, sourceName);
+            BasicFileAttributes sourceAttributes = readAttributes(sourceFile.toPath());
+            if (sourceAttributes == null) {
+                System.out.println("Error: Source file '" + sourceName + "' does not exist");
+                success = false;
+                continue;
+            }
+            if (!sourceAttributes.isRegularFile()) {
+                System.out.println("Error: '" + sourceName + "' is not a regular file");
+                success = false;
+                continue;
+            }
+
+            File target = intoDirectory ? new File(destination, sourceFile.getName()) : destination;
+            try {
+                BasicFileAttributes targetAttributes = readAttributes(target.toPath());
+                if (targetAttributes != null
+                        && isSameFile(sourceFile.toPath(), sourceAttributes, target.toPath(), targetAttributes)) {
+                    System.out.println("Error: '" + sourceName + "' and its destination are the same file");
+                    success = false;
+                    continue;
+                }
+                copyFile(sourceFile.toPath(), target.toPath(), sourceAttributes.size());
+                if (verify && !sameContent(sourceFile.toPath(), target.toPath())) {
+                    System.out.println("Error: Verification failed for '" + sourceName + "'");
+                    success = false;
+                }
+            } catch (IOException e) {
+                System.out.println("Error copying '" + sourceName + "': " + e.getMessage());
+                success = false;
+            }
+        }
+        return success;
+    }
+
+    // Compares file keys from attributes already read, only asking the file system again when there are none
+    private static boolean isSameFile(Path source, BasicFileAttributes sourceAttributes,
+                                      Path target, BasicFileAttributes targetAttributes) throws IOException {
+        Object sourceKey = sourceAttributes.fileKey();
+        if (sourceKey != null) {
+            return sourceKey.equals(targetAttributes.fileKey());
+        }
+        return Files.isSameFile(source, target);
+    }
+
+    // Copies bytes verbatim; large files are split into ranges that are written concurrently.
+    // A failed copy removes the truncated or partially written target rather than leaving it behind.
+    private void copyFile(Path source, Path target, long size) throws IOException {
+        boolean targetOpened = false;
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            targetOpened = true;
+            copyChannels(in, out, target, size);
+        } catch (IOException e) {
+            if (!targetOpened) {
+                throw e; // The target was never truncated, so leave it alone
+            }
+            Files.deleteIfExists(target);
+            throw new IOException(e.getMessage() + " (partial copy removed)", e);
+        }
+    }
+
+    private void copyChannels(FileChannel in, FileChannel out, Path target, long size) throws IOException {
+        if (size < this.parallelCopyThreshold || this.copyRanges < 2) {
+            copyRange(in, out, 0, size);
+            return;
+        }
+
+        long rangeSize = (size + this.copyRanges - 1) / this.copyRanges;
+        List<Future<Void>> futures = new ArrayList<>();
+        for (long start = 0; start < size; start += rangeSize) {
+            long position = start;
+            long count = Math.min(rangeSize, size - start);
+            futures.add(workerPool().submit(() -> {
+                // Each range gets its own destination channel so transferTo writes at its own offset
+                try (FileChannel rangeOut = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                    copyRange(in, rangeOut, position, count);
+                }
+                return null;
+            }));
+        }
+        awaitAll(futures);
+    }
+
+    // Copies [position, position + count) to the same offset in the target, letting the kernel move the
+    // bytes via transferTo and falling back to positional buffer writes if it stops making progress
+    private static void copyRange(FileChannel in, FileChannel out, long position, long count) throws IOException {
+        long end = position + count;
+        out.position(position);
+        while (position < end) {
+            long transferred = in.transferTo(position, end - position, out);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        writeRange(in, out, position, end);
+    }
+
+    // Copies [position, end) with positional reads and writes, for when transferTo makes no progress
+    static void writeRange(FileChannel in, FileChannel out, long position, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(COPY_BUFFER_SIZE, Math.max(1, end - position)));
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = in.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Source file shrank while copying");
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += out.write(buffer, position);
+            }
+        }
+    }
+
+    // Checksums source and target concurrently and compares the results
+    private boolean sameContent(Path source, Path target) throws IOException {
+        Future<Long> sourceChecksum = workerPool().submit(() -> checksum(source));
+        Future<Long> targetChecksum = workerPool().submit(() -> checksum(target));
+        awaitAll(List.of(sourceChecksum, targetChecksum));
+        return sourceChecksum.resultNow().equals(targetChecksum.resultNow());
+    }
+
+    private static long checksum(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    // Waits for every task, cancelling the rest and rethrowing on the first failure so none outlive the caller
+    private static void awaitAll(List<? extends Future<?>> futures) throws IOException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                cancelAll(futures);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while copying");
+            } catch (ExecutionException e) {
+                cancelAll(futures);
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
     public boolean rm(List<String> commandArguments) {
         for (String fileName : commandArguments) {
             File newFile = new File(this.currentDirectory, fileName);
-            if (newFile.isDirectory()) {
+            BasicFileAttributes attributes = readAttributes(newFile.toPath(), LinkOption.NOFOLLOW_LINKS);
+            if (attributes != null && attributes.isDirectory()) {
                 System.out.println("Can't remove a directory using this command, try rmdir");
                 return false;
             }
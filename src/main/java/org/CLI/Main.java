@@ -1,8 +1,30 @@
 package org.CLI;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Main {
     public static void main(String[] args) {
+        // Each `-c <command>` runs in order on one interpreter, then the CLI exits without prompting
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-c") && i + 1 < args.length) {
+                commands.add(args[++i]);
+            } else {
+                System.out.println("Usage: Main [-c <command>]...");
+                System.exit(2);
+            }
+        }
+
         CommandLineInterpreter myCli = new CommandLineInterpreter();
-        myCli.execute();
+        if (commands.isEmpty()) {
+            myCli.execute();
+            return;
+        }
+        for (String command : commands) {
+            if (!myCli.processInput(command)) {
+                break; // Exit command
+            }
+        }
     }
 }
@@ -7,8 +7,14 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -35,17 +41,20 @@ class CommandLineInterpreterTest {
                 "3. ls         : Lists files in the current directory.",
                 "4. ls -a      : Lists all files, including hidden files.",
                 "5. ls -r      : Lists files in reverse order.",
-                "6. mkdir <dir>: Creates a new directory named <dir>.",
-                "7. rmdir <dir>: Removes an empty directory named <dir>.",
-                "8. touch <file>: Creates a new file named <file>.",
-                "9. mv <src> <dest>: Moves or renames a file or directory.",
-                "10. rm <file> : Removes a file named <file>.",
-                "11. cat <file>: Displays the contents of <file>.",
-                "12. > <file>  : Redirects output to <file> (overwrites).",
-                "13. >> <file> : Redirects output to <file> (appends).",
-                "14. |         : Pipes the output of one command to another.",
-                "15. exit      : Terminates the CLI.",
-                "16. help      : Displays this help message."
+                "6. ls -l      : Lists files with permissions, size and modification time.",
+                "7. ls -S / -t : Sorts files by size / modification time.",
+                "8. mkdir <dir>: Creates a new directory named <dir>.",
+                "9. rmdir <dir>: Removes an empty directory named <dir>.",
+                "10. touch <file>: Creates a new file named <file>.",
+                "11. mv <src> <dest>: Moves or renames a file or directory.",
+                "12. cp <src>... <dest>: Copies files; --verify checksums the copies.",
+                "13. rm <file> : Removes a file named <file>.",
+                "14. cat <file>: Displays the contents of <file>.",
+                "15. > <file>  : Redirects output to <file> (overwrites).",
+                "16. >> <file> : Redirects output to <file> (appends).",
+                "17. |         : Pipes the output of one command to another.",
+                "18. exit      : Terminates the CLI.",
+                "19. help      : Displays this help message."
         };
 
         // Act
@@ -127,6 +136,57 @@ class CommandLineInterpreterTest {
         assertArrayEquals(expectedOutput, result);
     }
 
+    @Test
+    void testExecuteLsWithSOption() throws IOException {
+        cli.touch(List.of("small", "empty", "large"));
+        Files.writeString(Path.of(cli.pwd(), "small"), "12");
+        Files.writeString(Path.of(cli.pwd(), "large"), "1234567890");
+
+        String[] result = cli.executeLs(List.of("-S")); // Largest first
+        assertArrayEquals(new String[]{"large", "small", "empty"}, result);
+    }
+
+    @Test
+    void testExecuteLsWithTOption() throws IOException {
+        cli.touch(List.of("old", "middle", "new"));
+        Files.setLastModifiedTime(Path.of(cli.pwd(), "old"), FileTime.fromMillis(1_000_000_000_000L));
+        Files.setLastModifiedTime(Path.of(cli.pwd(), "middle"), FileTime.fromMillis(1_100_000_000_000L));
+        Files.setLastModifiedTime(Path.of(cli.pwd(), "new"), FileTime.fromMillis(1_200_000_000_000L));
+
+        String[] result = cli.executeLs(List.of("-t")); // Newest first
+        assertArrayEquals(new String[]{"new", "middle", "old"}, result);
+
+        result = cli.executeLs(List.of("-t", "-r")); // Oldest first
+        assertArrayEquals(new String[]{"old", "middle", "new"}, result);
+    }
+
+    @Test
+    void testExecuteLsLongSortedBySizeInLargeDirectory() throws IOException {
+        // Enough entries to have their attributes fetched on the worker pool
+        int count = 300;
+        for (int i = 0; i < count; i++) {
+            Files.write(Path.of(cli.pwd(), String.format("f%03d", i)), new byte[i]);
+        }
+
+        String[] result = cli.executeLs(List.of("-l", "-S"));
+        assertEquals(count, result.length);
+        for (int i = 0; i < count; i++) {
+            int size = count - 1 - i;
+            assertTrue(result[i].matches("-[rwx-]{9} +" + size + " .* " + String.format("f%03d", size)), result[i]);
+        }
+    }
+
+    @Test
+    void testExecuteLsWithLOption() {
+        cli.touch(List.of("file1"));
+        cli.mkdir(List.of("dir1"));
+
+        String[] result = cli.executeLs(List.of("-l"));
+        assertEquals(2, result.length);
+        assertTrue(result[0].matches("d[rwx-]{9} +\\d+ \\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2} dir1"), result[0]);
+        assertTrue(result[1].matches("-[rwx-]{9} +0 \\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2} file1"), result[1]);
+    }
+
     @Test
     void testMkdir() {
         // Call the mkdir method to create a new directory named "Test"
@@ -198,6 +258,63 @@ class CommandLineInterpreterTest {
         cli.cd(List.of(".."));
     }
 
+    @Test
+    void cp() throws IOException {
+        byte[] content = {'a', '\r', '\n', 0, (byte) 0xff, 'b'};
+        Files.write(Path.of(cli.pwd(), "Source"), content);
+
+        assertTrue(cli.cp(List.of("Source", "Copy", "--verify")));
+        assertArrayEquals(content, Files.readAllBytes(Path.of(cli.pwd(), "Copy")));
+
+        cli.mkdir(List.of("Dest"));
+        assertTrue(cli.cp(List.of("Source", "Copy", "Dest")));
+        assertArrayEquals(content, Files.readAllBytes(Path.of(cli.pwd(), "Dest", "Source")));
+        assertArrayEquals(content, Files.readAllBytes(Path.of(cli.pwd(), "Dest", "Copy")));
+
+        assertFalse(cli.cp(List.of("Source", "Copy", "NotADirectory")));
+        assertFalse(cli.cp(List.of("Missing", "Copy2")));
+        assertFalse(cli.cp(List.of("Source", "Source")));
+        assertFalse(cli.cp(List.of("Source", ".")));
+        assertArrayEquals(content, Files.readAllBytes(Path.of(cli.pwd(), "Source")));
+
+        cli.cd(List.of("Dest"));
+        cli.rm(List.of("Source", "Copy"));
+        cli.cd(List.of(".."));
+    }
+
+    @Test
+    void cpParallelRanges() throws IOException {
+        // Three ranges over a size that does not divide evenly, with a threshold small enough to trigger them
+        CommandLineInterpreter parallelCli = new CommandLineInterpreter(1000, 3);
+        parallelCli.cd(List.of("testDir"));
+        byte[] content = new byte[10_007];
+        new Random(42).nextBytes(content);
+        Files.write(Path.of(cli.pwd(), "Source"), content);
+
+        assertTrue(parallelCli.cp(List.of("Source", "Copy", "--verify")));
+        assertArrayEquals(content, Files.readAllBytes(Path.of(cli.pwd(), "Copy")));
+    }
+
+    @Test
+    void cpPositionalWriteFallback() throws IOException {
+        byte[] content = new byte[5_000];
+        new Random(7).nextBytes(content);
+        Path source = Path.of(cli.pwd(), "Source");
+        Path target = Path.of(cli.pwd(), "Copy");
+        Files.write(source, content);
+
+        // Copy the middle range only; the bytes around it must stay untouched
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            CommandLineInterpreter.writeRange(in, out, 1_234, 3_456);
+        }
+
+        byte[] copied = Files.readAllBytes(target);
+        assertEquals(3_456, copied.length);
+        assertArrayEquals(new byte[1_234], Arrays.copyOfRange(copied, 0, 1_234));
+        assertArrayEquals(Arrays.copyOfRange(content, 1_234, 3_456), Arrays.copyOfRange(copied, 1_234, 3_456));
+    }
+
     @Test
     void rm() {
         cli.touch(List.of("Test"));
@@ -0,0 +1,71 @@
+package org.CLI;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+    private CommandLineInterpreter cli;
+
+    @BeforeEach
+    public void setUp() {
+        cli = new CommandLineInterpreter();
+        cli.mkdir(List.of("mainTestDir"));
+        cli.cd(List.of("mainTestDir"));
+        originalOut = System.out;
+        System.setOut(new PrintStream(output, true));
+    }
+
+    @Test
+    void commandsRunInOrderAndStopAtExit() {
+        Main.main(new String[]{
+                "-c", "cd mainTestDir",
+                "-c", "touch x",
+                "-c", "ls",
+                "-c", "exit",
+                "-c", "touch y"
+        });
+
+        // `touch x` only lands in mainTestDir because `cd` ran first, and `ls` sees it because `touch` ran before it
+        assertEquals("File 'x' created successfully." + System.lineSeparator() + "x" + System.lineSeparator(),
+                output.toString());
+        assertArrayEquals(new String[]{"x"}, cli.executeLs(List.of()));
+    }
+
+    @Test
+    void blankCommandsAreIgnored() {
+        Main.main(new String[]{"-c", "", "-c", " ", "-c", "cd mainTestDir", "-c", "ls"});
+
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    void constructorDoesNotTouchTheTerminal() {
+        new CommandLineInterpreter();
+
+        // The screen clear and stdin Scanner are deferred to the interactive loop
+        assertEquals("", output.toString());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        System.setOut(originalOut);
+        String[] entries = cli.executeLs(List.of("-a"));
+        for (String s : entries) {
+            File currentFile = new File(cli.pwd(), s);
+            currentFile.delete();
+        }
+        cli.cd(List.of(".."));
+        cli.rmdir(List.of("mainTestDir"));
+    }
+}
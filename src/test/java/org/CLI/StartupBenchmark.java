@@ -0,0 +1,91 @@
+package org.CLI;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Launches Main in fresh JVMs and reports the median time-to-first-prompt and time-to-exit for
+ * {@code -c "ls"}, with and without the AppCDS archive. Run by the cds profile: {@code mvn -Pcds verify}.
+ */
+public class StartupBenchmark {
+    private static final int RUNS = 10;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: StartupBenchmark <jar> [archive]");
+            return;
+        }
+        String jar = args[0];
+        report("default", jar, List.of());
+        if (args.length > 1 && new File(args[1]).isFile()) {
+            report("appcds", jar, List.of("-XX:SharedArchiveFile=" + args[1]));
+        }
+    }
+
+    private static void report(String label, String jar, List<String> jvmOptions) throws Exception {
+        long[] firstPrompt = new long[RUNS];
+        long[] exit = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            firstPrompt[i] = timeToFirstPrompt(command(jar, jvmOptions));
+            exit[i] = timeToExit(command(jar, jvmOptions, "-c", "ls"));
+        }
+        System.out.printf("%-8s time-to-first-prompt %5d ms, time-to-exit (-c \"ls\") %5d ms%n",
+                label, median(firstPrompt), median(exit));
+    }
+
+    private static long timeToFirstPrompt(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        InputStream output = process.getInputStream();
+
+        // The prompt is "<directory>: " without a newline, so wait for the ": " that ends it
+        int previous = -1;
+        int current;
+        while ((current = output.read()) != -1) {
+            if (previous == ':' && current == ' ') {
+                break;
+            }
+            previous = current;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        try (Writer input = new OutputStreamWriter(process.getOutputStream())) {
+            input.write("exit\n");
+        }
+        output.transferTo(OutputStream.nullOutputStream());
+        process.waitFor();
+        return elapsed / 1_000_000;
+    }
+
+    private static long timeToExit(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        process.waitFor();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static List<String> command(String jar, List<String> jvmOptions, String... programArguments) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-cp", jar, Main.class.getName()));
+        command.addAll(List.of(programArguments));
+        return command;
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}